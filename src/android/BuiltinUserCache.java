@@ -72,14 +72,14 @@ public class BuiltinUserCache extends SQLiteOpenHelper implements UserCache {
 
     @Override
     public void onCreate(SQLiteDatabase sqLiteDatabase) {
-        String CREATE_USER_CACHE_TABLE = "CREATE TABLE " + TABLE_USER_CACHE +" (" +
+        String CREATE_USER_CACHE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE_USER_CACHE +" (" +
                 KEY_WRITE_TS + " REAL, "+ KEY_READ_TS +" REAL, " +
                 KEY_TIMEZONE + " TEXT, " +
                 KEY_TYPE + " TEXT, " + KEY_KEY + " TEXT, "+
                 KEY_PLUGIN + " TEXT, " + KEY_DATA + " TEXT)";
         System.out.println("CREATE_USER_CACHE_TABLE = " + CREATE_USER_CACHE_TABLE);
         sqLiteDatabase.execSQL(CREATE_USER_CACHE_TABLE);
-        String CREATE_USER_CACHE_ERROR_TABLE = "CREATE TABLE " + TABLE_USER_CACHE_ERROR +" (" +
+        String CREATE_USER_CACHE_ERROR_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE_USER_CACHE_ERROR +" (" +
                 KEY_WRITE_TS + " REAL, "+ KEY_READ_TS +" REAL, " +
                 KEY_TIMEZONE + " TEXT, " +
                 KEY_TYPE + " TEXT, " + KEY_KEY + " TEXT, "+
@@ -1,17 +1,73 @@
 package edu.berkeley.eecs.emission.cordova.usercache;
 
 import android.content.Context;
+import android.os.SystemClock;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import edu.berkeley.eecs.emission.cordova.unifiedlogger.Log;
 
 /**
  * Created by shankari on 7/5/15.
  */
 public class UserCacheFactory {
+    private static final String TAG = "UserCacheFactory";
+
+    // Set while the database is being (or has been) created in the background.
+    // Cleared if the creation fails so that the next waitForReady retries it.
+    private static Future<?> readyFuture;
+
     /**
      * This is the factory method that allows the designer to choose between
      * various backends. Currently, we have only one backend implemented,
      * so we return it.
+     *
+     * This does not wait for createInBackground. The backend creates its
+     * tables on first use if they don't exist yet.
      */
     public static UserCache getUserCache(Context ctxt) {
         return new BuiltinUserCache(ctxt);
     }
+
+    /**
+     * Creates the database (running onCreate/onUpgrade as needed) on the
+     * specified executor so that it does not block the UI thread.
+     */
+    public static synchronized Future<?> createInBackground(final Context ctxt, ExecutorService executor) {
+        if (readyFuture == null) {
+            readyFuture = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    long startTime = SystemClock.elapsedRealtime();
+                    // The table is created lazily during first use, so open it here
+                    new BuiltinUserCache(ctxt).getWritableDatabase().close();
+                    Log.d(ctxt, TAG, "Created usercache database in background in "
+                            + (SystemClock.elapsedRealtime() - startTime) + " ms");
+                }
+            });
+        }
+        return readyFuture;
+    }
+
+    /**
+     * Blocks until the background database creation is complete, starting it
+     * if it has not been started or if the previous attempt failed. Must not
+     * be called from the UI thread.
+     */
+    public static void waitForReady(Context ctxt, ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        Future<?> currFuture = createInBackground(ctxt, executor);
+        try {
+            currFuture.get();
+        } catch (ExecutionException e) {
+            synchronized (UserCacheFactory.class) {
+                if (readyFuture == currFuture) {
+                    readyFuture = null;
+                }
+            }
+            throw e;
+        }
+    }
 }
@@ -3,31 +3,44 @@ package edu.berkeley.eecs.emission.cordova.usercache;
 import org.apache.cordova.*;
 import org.json.JSONArray;
 import org.json.JSONException;
-import org.json.JSONObject;
 
 import android.content.Context;
 
-import edu.berkeley.eecs.emission.R;
+import java.util.concurrent.ExecutionException;
+
 import edu.berkeley.eecs.emission.cordova.usercache.UserCacheFactory;
+import edu.berkeley.eecs.emission.cordova.unifiedlogger.Log;
 
 public class UserCachePlugin extends CordovaPlugin {
+    private static final String TAG = "UserCachePlugin";
 
     protected void pluginInitialize() {
-        // Let's just access the usercache so that it is created
-        UserCache currCache = UserCacheFactory.getUserCache(cordova.getActivity());
-        System.out.println("During plugin initialize, created usercache" + currCache);
-        // let's get a document - the table is created lazily during first use
-        try {
-            currCache.getDocument(R.string.key_usercache_transition, JSONObject.class);
-        } catch (Exception e) {
-            System.out.println("Expected error "+e+" while getting document since we are reading a dummy key");
-        }
+        // Create the database on the cordova thread pool instead of the UI thread.
+        // The javascript calls waitForReady before its first query.
+        UserCacheFactory.createInBackground(cordova.getActivity(), cordova.getThreadPool());
     }
 
     @Override
-    public boolean execute(String action, JSONArray data, CallbackContext callbackContext) throws JSONException {
-        callbackContext.error("Not implemented");
+    public boolean execute(String action, JSONArray data, final CallbackContext callbackContext) throws JSONException {
+        if (action.equals("waitForReady")) {
+            final Context ctxt = cordova.getActivity();
+            cordova.getThreadPool().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        UserCacheFactory.waitForReady(ctxt, cordova.getThreadPool());
+                        callbackContext.success();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        callbackContext.error("Interrupted while waiting for usercache creation");
+                    } catch (ExecutionException e) {
+                        Log.e(ctxt, TAG, "Error while creating usercache " + e.getCause());
+                        callbackContext.error(String.valueOf(e.getCause()));
+                    }
+                }
+            });
+            return true;
+        }
         return false;
     }
 }
-
@@ -1,4 +1,7 @@
 #import <Cordova/CDV.h>
 
 @interface BEMUserCachePlugin: CDVPlugin
+
+- (void) waitForReady:(CDVInvokedUrlCommand*)command;
+
 @end
@@ -12,4 +12,12 @@
     NSLog(@"Database is %@", [BuiltinUserCache database]);
 }
 
+// The database is opened synchronously in pluginInitialize, so it is always
+// ready by the time the javascript asks
+- (void)waitForReady:(CDVInvokedUrlCommand*)command
+{
+    CDVPluginResult* result = [CDVPluginResult resultWithStatus:CDVCommandStatus_OK];
+    [self.commandDelegate sendPluginResult:result callbackId:command.callbackId];
+}
+
 @end
@@ -36,8 +36,46 @@ var UserCache = {
         return UserCache.dbHandle;
     },
 
+    /*
+     * On android, the tables are created in the background during plugin
+     * initialization, so we need to wait for that to finish before the first
+     * query, otherwise we may see "no such table" on a fresh install.
+     */
+    ready: function() {
+        if (UserCache.readyPromise == null) {
+            UserCache.readyPromise = new Promise(function(resolve, reject) {
+                exec(resolve, function(error) {
+                    // Clear the cached promise so that the next call asks the
+                    // native code to try creating the database again
+                    UserCache.readyPromise = null;
+                    reject(error);
+                }, "UserCache", "waitForReady", []);
+            });
+        }
+        return UserCache.readyPromise;
+    },
+
+    /*
+     * Returns a handle with the same transaction methods as db(), but which
+     * waits for ready() before using the database. Errors while waiting or
+     * while starting the transaction are passed to errorCallback.
+     */
+    readyDb: function(errorCallback) {
+        var whenReady = function(fn) {
+            UserCache.ready().then(fn).catch(errorCallback);
+        };
+        return {
+            readTransaction: function(txFn) {
+                whenReady(function() { UserCache.db().readTransaction(txFn); });
+            },
+            transaction: function(txFn) {
+                whenReady(function() { UserCache.db().transaction(txFn); });
+            }
+        };
+    },
+
     getDocument: function(key, successCallback, errorCallback) {
-        UserCache.db().readTransaction(function(tx) {
+        UserCache.readyDb(errorCallback).readTransaction(function(tx) {
             /*
              * We can have multiple entries for a particular key as the document associated with the key
              * is updated throughout the day. We should really override as part of the sync. But for now,
@@ -73,7 +111,7 @@ var UserCache = {
     },
 
     getEntries: function(type, key, successCallback, errorCallback) {
-        UserCache.db().readTransaction(function(tx) {
+        UserCache.readyDb(errorCallback).readTransaction(function(tx) {
             /*
              * We can have multiple entries for a particular key as the document associated with the key
              * is updated throughout the day. We should really override as part of the sync. But for now,
@@ -125,7 +163,7 @@ var UserCache = {
     putEntries: function(type, key, valueList) {
         // We need a new top level promise because UserCache.db().transaction is async!!
         return new Promise(function(resolve, reject) {
-            UserCache.db().transaction(function(tx) {
+            UserCache.readyDb(reject).transaction(function(tx) {
                 var selQuery = "INSERT INTO "+UserCache.TABLE_USER_CACHE+
                         " ("+UserCache.KEY_WRITE_TS+"," + UserCache.KEY_TIMEZONE + "," +
                         UserCache.KEY_TYPE + "," + UserCache.KEY_KEY + "," +